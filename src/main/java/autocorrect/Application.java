@@ -2,11 +2,53 @@ package autocorrect;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+
+import java.util.Collections;
 
 @SpringBootApplication
 public class Application {
 
+    /**
+     * Setting this property, from any property source, switches the application into offline batch correction mode
+     */
+    public static final String BATCH_INPUT_PROPERTY = "autocorrect.batch.input";
+
     public static void main(String[] args) {
-        SpringApplication.run(Application.class, args);
+        SpringApplication application = new SpringApplication(Application.class);
+        application.addListeners(new BatchModeListener());
+        ConfigurableApplicationContext context = application.run(args);
+        if (isBatchMode(context.getEnvironment())) {
+            //Batch runner has finished by the time run() returns
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    public static boolean isBatchMode(ConfigurableEnvironment environment) {
+        return environment.containsProperty(BATCH_INPUT_PROPERTY);
+    }
+
+    /**
+     * Once every property source (arguments, system properties, environment variables, application.properties)
+     * has been loaded, turns off the web server and warm-up if batch mode was requested.
+     * Spring Boot reads {@code spring.main.*} from the environment right after this event.
+     */
+    private static class BatchModeListener implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+        @Override
+        public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+            ConfigurableEnvironment environment = event.getEnvironment();
+            if (!isBatchMode(environment)) return;
+            MutablePropertySources propertySources = environment.getPropertySources();
+            propertySources.addFirst(new MapPropertySource("batchMode",
+                    Collections.singletonMap("spring.main.web-application-type", "none")));
+            propertySources.addLast(new MapPropertySource("batchModeDefaults",
+                    Collections.singletonMap("autocorrect.warmup.enabled", "false")));
+        }
     }
 }
@@ -0,0 +1,95 @@
+package autocorrect.batch;
+
+import autocorrect.Application;
+import autocorrect.exceptions.EmptyStringException;
+import autocorrect.exceptions.ExceedsMaxWordLengthException;
+import autocorrect.exceptions.TreeFullException;
+import autocorrect.util.Tree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnNotWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Runs the offline batch correction when {@code autocorrect.batch.input} is set (see {@link Application}).
+ * Loads the dictionary into its own {@link Tree}, separate from the one served over HTTP, then streams the
+ * input file through a {@link BatchPipeline}.
+ */
+@Component
+@ConditionalOnProperty(name = Application.BATCH_INPUT_PROPERTY)
+@ConditionalOnNotWebApplication
+public class BatchCorrectionRunner implements ApplicationRunner
+{
+    private static final Logger log = LoggerFactory.getLogger(BatchCorrectionRunner.class);
+
+    @Value("${autocorrect.batch.dictionary}")
+    private String dictionaryPath;
+
+    @Value("${" + Application.BATCH_INPUT_PROPERTY + "}")
+    private String inputPath;
+
+    @Value("${autocorrect.batch.output}")
+    private String outputPath;
+
+    @Value("${autocorrect.batch.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int threads;
+
+    @Value("${autocorrect.batch.queue-size:4096}")
+    private int queueSize;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException, InterruptedException
+    {
+        long loadStart = System.nanoTime();
+        Tree dictionary = loadDictionary();
+        log.info("Loaded {} dictionary words in {} ms", dictionary.size(), (System.nanoTime() - loadStart) / 1_000_000);
+
+        long start = System.nanoTime();
+        long processed;
+        try (BufferedReader in = Files.newBufferedReader(Paths.get(inputPath), StandardCharsets.UTF_8);
+             BufferedWriter out = Files.newBufferedWriter(Paths.get(outputPath), StandardCharsets.UTF_8))
+        {
+            processed = new BatchPipeline(dictionary, threads, queueSize).run(in, out);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("Corrected {} links in {} s with {} threads ({} links/s)",
+                processed, String.format("%.2f", seconds), threads, String.format("%.0f", processed / Math.max(seconds, 1e-9)));
+    }
+
+    /**
+     * Reads one word per line into a tree with no size limit, skipping words the tree won't accept
+     */
+    private Tree loadDictionary() throws IOException
+    {
+        Tree dictionary = new Tree(Integer.MAX_VALUE);
+        long skipped = 0;
+        try (BufferedReader in = Files.newBufferedReader(Paths.get(dictionaryPath), StandardCharsets.UTF_8))
+        {
+            String line;
+            while ((line = in.readLine()) != null)
+            {
+                try
+                {
+                    dictionary.addWord(line.trim());
+                }
+                catch (EmptyStringException | ExceedsMaxWordLengthException | TreeFullException e)
+                {
+                    skipped++;
+                }
+            }
+        }
+        if (skipped > 0) log.warn("Skipped {} empty or over-length dictionary words", skipped);
+        return dictionary;
+    }
+}
@@ -0,0 +1,131 @@
+package autocorrect.batch;
+
+import autocorrect.exceptions.EmptyStringException;
+import autocorrect.exceptions.ExceedsMaxWordLengthException;
+import autocorrect.util.Tree;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Streams links through a read -> lookup -> write pipeline. One thread reads links and hands them to a pool of
+ * lookup workers, while the calling thread writes the results. Pending results are kept in a bounded queue in
+ * input order, so output order matches input order and the reader can never get more than the queue size ahead
+ * of the writer.
+ */
+public class BatchPipeline
+{
+    /**
+     * Marker placed on the queue by the reader once the input is exhausted
+     */
+    private static final Future<String> END_OF_INPUT = CompletableFuture.completedFuture(null);
+
+    private final Tree tree;
+    private final int threads;
+    private final int queueSize;
+
+    /**
+     * @param tree tree to look links up in, must not be modified while the pipeline runs
+     * @param threads number of lookup workers
+     * @param queueSize maximum number of links read but not yet written
+     */
+    public BatchPipeline(Tree tree, int threads, int queueSize)
+    {
+        this.tree = tree;
+        this.threads = threads;
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * Corrects every link (one per line) in {@code in}, writing one line per link to {@code out} of the form
+     * {@code link<TAB>similar1,similar2,...}
+     *
+     * @return number of links processed
+     */
+    public long run(BufferedReader in, Writer out) throws IOException, InterruptedException
+    {
+        BlockingQueue<Future<String>> pending = new ArrayBlockingQueue<>(queueSize);
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        IOException[] readError = new IOException[1];
+
+        Thread reader = new Thread(() -> {
+            try
+            {
+                String line;
+                while ((line = in.readLine()) != null)
+                {
+                    String link = line.trim();
+                    pending.put(workers.submit(() -> correct(link))); //Blocks while the writer is queueSize links behind
+                }
+            }
+            catch (IOException e)
+            {
+                readError[0] = e;
+            }
+            catch (InterruptedException | RejectedExecutionException e)
+            {
+                return; //Writer gave up, nobody is waiting for the end marker
+            }
+
+            try
+            {
+                pending.put(END_OF_INPUT);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }, "batch-reader");
+
+        long processed = 0;
+        reader.start();
+        try
+        {
+            Future<String> next;
+            while ((next = pending.take()) != END_OF_INPUT)
+            {
+                out.write(next.get());
+                out.write('\n');
+                processed++;
+            }
+            reader.join();
+        }
+        catch (ExecutionException e)
+        {
+            throw new IllegalStateException("Lookup failed", e.getCause());
+        }
+        finally
+        {
+            //Stop the reader before shutting down the workers it submits to, so a failure in the writer
+            // is the only error reported
+            reader.interrupt();
+            reader.join();
+            workers.shutdownNow();
+        }
+        out.flush();
+
+        if (readError[0] != null) throw readError[0];
+        return processed;
+    }
+
+    private String correct(String link)
+    {
+        try
+        {
+            return link + "\t" + String.join(",", tree.getSimilarWords(link));
+        }
+        catch (EmptyStringException | ExceedsMaxWordLengthException e)
+        {
+            return link + "\t"; //Links that can't be looked up get no suggestions
+        }
+    }
+}
@@ -2,11 +2,13 @@ package autocorrect.config;
 
 import autocorrect.controllers.AppErrorController;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.servlet.error.ErrorAttributes;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@ConditionalOnWebApplication //No ErrorAttributes without a web server, e.g. in batch mode
 public class GeneralConfig
 {
     @Autowired
@@ -1,5 +1,6 @@
 package autocorrect.controllers;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.servlet.error.ErrorAttributes;
 import org.springframework.boot.web.servlet.error.ErrorController;
 import org.springframework.http.HttpStatus;
@@ -16,6 +17,7 @@ import java.util.Map;
  * Basic Controller which is called for unhandled errors
  */
 @Controller
+@ConditionalOnWebApplication
 public class AppErrorController implements ErrorController
 {
     private ErrorAttributes errorAttributes;
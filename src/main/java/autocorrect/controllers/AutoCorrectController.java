@@ -3,8 +3,11 @@ package autocorrect.controllers;
 import autocorrect.domain.AutoCorrectResponse;
 import autocorrect.exceptions.EmptyStringException;
 import autocorrect.exceptions.ExceedsMaxWordLengthException;
+import autocorrect.exceptions.SearchBudgetExceededException;
+import autocorrect.util.QueryLimiter;
 import autocorrect.util.Tree;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -17,29 +20,58 @@ public class AutoCorrectController
 {
     public static final String EMPTY_STRING_ERROR = "The link provided is an empty string.";
     public static final String ABOVE_MAX_LENGTH_ERROR = "Link '%s' exceeds maximum word length.";
+    public static final String OVERLOADED_ERROR = "The server is handling too many requests, try again shortly.";
 
     @Autowired
     Tree tree;
 
+    @Autowired
+    QueryLimiter queryLimiter;
+
     @RequestMapping(method = RequestMethod.GET, path = "/auto-correct/")
     public ResponseEntity<?> autoCorrect(@RequestParam(value = "link") String link)
     {
         AutoCorrectResponse autoCorrectResponse = new AutoCorrectResponse();
         HttpStatus status = HttpStatus.OK;
 
+        //Reject invalid links up front so they never take permits or get reported as overload
+        if (tree.isEmptyWord(link))
+        {
+            autoCorrectResponse.getErrors().add(EMPTY_STRING_ERROR);
+            return new ResponseEntity<>(autoCorrectResponse, HttpStatus.BAD_REQUEST);
+        }
+        if (tree.isAboveMaxWordLength(link))
+        {
+            autoCorrectResponse.getErrors().add(String.format(ABOVE_MAX_LENGTH_ERROR, link));
+            return new ResponseEntity<>(autoCorrectResponse, HttpStatus.BAD_REQUEST);
+        }
+
+        if (!queryLimiter.tryAcquire(link)) //Too much lookup work already running, fail fast instead of queueing
+        {
+            autoCorrectResponse.getErrors().add(OVERLOADED_ERROR);
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, "1");
+            return new ResponseEntity<>(autoCorrectResponse, headers, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
         try
         {
-            autoCorrectResponse.setLinks(tree.getSimilarWords(link)); //Fetches similar words to link from the tree structure
+            //Fetches similar words to link from the tree structure
+            autoCorrectResponse.setLinks(tree.getSimilarWords(link, queryLimiter.getMaxLookupCost()));
         }
-        catch (EmptyStringException e)
+        catch (SearchBudgetExceededException e)
         {
-            autoCorrectResponse.getErrors().add(EMPTY_STRING_ERROR);
-            status = HttpStatus.BAD_REQUEST;
+            //Search was cut off, return what was found so far and flag it as incomplete
+            autoCorrectResponse.setLinks(e.getPartialResults());
+            autoCorrectResponse.setPartial(true);
         }
-        catch (ExceedsMaxWordLengthException e)
+        catch (EmptyStringException | ExceedsMaxWordLengthException e)
         {
-            autoCorrectResponse.getErrors().add(String.format(ABOVE_MAX_LENGTH_ERROR, link));
-            status = HttpStatus.BAD_REQUEST;
+            status = HttpStatus.INTERNAL_SERVER_ERROR; //These errors should never be thrown due to checking above
+        }
+        finally
+        {
+            queryLimiter.release(link);
         }
 
         return new ResponseEntity<>(autoCorrectResponse, status); //Return response
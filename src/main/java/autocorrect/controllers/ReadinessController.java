@@ -0,0 +1,37 @@
+package autocorrect.controllers;
+
+import autocorrect.domain.BaseResponse;
+import autocorrect.warmup.WarmUpRunner;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Readiness check for load balancers, only succeeds once warm-up has finished
+ */
+@RestController
+public class ReadinessController
+{
+    public static final String WARMING_UP_ERROR = "The server is still warming up.";
+
+    @Autowired
+    WarmUpRunner warmUpRunner;
+
+    @RequestMapping(method = RequestMethod.GET, path = "/ready")
+    public ResponseEntity<?> ready()
+    {
+        BaseResponse response = new BaseResponse();
+        HttpStatus status = HttpStatus.OK;
+
+        if (!warmUpRunner.isReady())
+        {
+            response.getErrors().add(WARMING_UP_ERROR);
+            status = HttpStatus.SERVICE_UNAVAILABLE;
+        }
+
+        return new ResponseEntity<>(response, status);
+    }
+}
@@ -11,6 +11,11 @@ public class AutoCorrectResponse extends BaseResponse
 {
     private List<String> links;
 
+    /**
+     * True if the lookup ran out of its work budget and {@code links} may be incomplete
+     */
+    private boolean partial;
+
     public AutoCorrectResponse()
     {
         links = new ArrayList<>();
@@ -32,4 +37,13 @@ public class AutoCorrectResponse extends BaseResponse
         this.links = links;
     }
 
+    public boolean isPartial()
+    {
+        return partial;
+    }
+
+    public void setPartial(boolean partial)
+    {
+        this.partial = partial;
+    }
 }
@@ -0,0 +1,24 @@
+package autocorrect.exceptions;
+
+import java.util.List;
+
+/**
+ * Thrown when a search of the tree runs out of its work budget before finishing
+ */
+public class SearchBudgetExceededException extends Exception
+{
+    private final List<String> partialResults;
+
+    public SearchBudgetExceededException(List<String> partialResults)
+    {
+        this.partialResults = partialResults;
+    }
+
+    /**
+     * @return words found before the search was cut off
+     */
+    public List<String> getPartialResults()
+    {
+        return partialResults;
+    }
+}
@@ -14,17 +14,42 @@ public class LevenshteinMetric
         return dist(word1, word2, word1.length(), word2.length());
     }
 
+    /**
+     * Number of table cells {@link #dist(String, String)} fills in to compare {@code word1} and {@code word2},
+     * i.e. the amount of work the comparison costs
+     */
+    public static int cost(String word1, String word2)
+    {
+        return word1.length() * word2.length();
+    }
+
     /**
      * Compute the Levenshtein distance between {@code word1} and {@code word2}, given both
-     * their lengths. Algorithm description taken from Wikipedia.
+     * their lengths. Uses the dynamic programming algorithm from Wikipedia, keeping only two rows
+     * of the table: {@code prev[j]} is the distance between the first i - 1 characters of
+     * {@code word1} and the first j characters of {@code word2}.
      */
-    private static int dist(String word1, String word2, int i, int j)
+    private static int dist(String word1, String word2, int m, int n)
     {
-        if (Math.min(i, j) == 0) return Math.max(i, j);
-        int lev1 = dist(word1, word2, i - 1, j) + 1;
-        int lev2 = dist(word1, word2, i, j - 1) + 1;
-        int lev3 = dist(word1, word2, i - 1, j - 1) + indicator(word1.charAt(i - 1), word2.charAt(j - 1));
-        return min(lev1, lev2, lev3);
+        if (Math.min(m, n) == 0) return Math.max(m, n);
+        int[] prev = new int[n + 1];
+        int[] curr = new int[n + 1];
+        for (int j = 0; j <= n; j++) prev[j] = j;
+        for (int i = 1; i <= m; i++)
+        {
+            curr[0] = i;
+            for (int j = 1; j <= n; j++)
+            {
+                int lev1 = prev[j] + 1;
+                int lev2 = curr[j - 1] + 1;
+                int lev3 = prev[j - 1] + indicator(word1.charAt(i - 1), word2.charAt(j - 1));
+                curr[j] = min(lev1, lev2, lev3);
+            }
+            int[] swap = prev;
+            prev = curr;
+            curr = swap;
+        }
+        return prev[n];
     }
 
     private static int min(int i, int j, int k)
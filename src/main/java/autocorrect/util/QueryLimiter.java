@@ -0,0 +1,75 @@
+package autocorrect.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for lookups against the {@link Tree}. Bounds how much lookup work runs at once so a burst of
+ * expensive queries can't take every request thread, and holds the per-query work budget.
+ * <p>
+ * A lookup's cost grows linearly with the length of the word being looked up (each comparison fills in
+ * {@code word.length() * node.length()} cells), so each lookup takes one permit per character. The pool holds
+ * enough permits for {@code maxConcurrent} lookups of maximum length, or proportionally more short ones. The
+ * semaphore is deliberately unfair: a cheap lookup that fits in the remaining permits goes ahead of a long one
+ * still waiting for enough to free up, so under load it is the long links that time out and get shed.
+ */
+@Service
+public class QueryLimiter
+{
+    private final Semaphore permits;
+    private final int capacity;
+    private final long acquireTimeoutMillis;
+    private final long maxLookupCost;
+
+    public QueryLimiter(@Value("${autocorrect.query.max-concurrent:16}") int maxConcurrent,
+                        @Value("${autocorrect.query.acquire-timeout-ms:50}") long acquireTimeoutMillis,
+                        @Value("${autocorrect.query.max-lookup-cost:" + Tree.FULL_SEARCH_COST + "}") long maxLookupCost)
+    {
+        this.capacity = maxConcurrent * Tree.MAX_WORD_LENGTH;
+        this.permits = new Semaphore(capacity);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.maxLookupCost = maxLookupCost;
+    }
+
+    /**
+     * Waits up to the acquire timeout for enough permits to look up {@code word}
+     *
+     * @return true if permits were acquired and must later be given back with {@link #release(String)}, false if overloaded
+     */
+    public boolean tryAcquire(String word)
+    {
+        try
+        {
+            return permits.tryAcquire(weight(word), acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void release(String word)
+    {
+        permits.release(weight(word));
+    }
+
+    /**
+     * @return maximum work, in distance table cells, a single lookup may do (see {@link Tree#getSimilarWords(String, long)})
+     */
+    public long getMaxLookupCost()
+    {
+        return maxLookupCost;
+    }
+
+    /**
+     * Number of permits a lookup of {@code word} takes, capped at the pool size so any word can eventually run
+     */
+    private int weight(String word)
+    {
+        return Math.max(1, Math.min(word.length(), capacity));
+    }
+}
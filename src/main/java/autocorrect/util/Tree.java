@@ -2,6 +2,7 @@ package autocorrect.util;
 
 import autocorrect.exceptions.EmptyStringException;
 import autocorrect.exceptions.ExceedsMaxWordLengthException;
+import autocorrect.exceptions.SearchBudgetExceededException;
 import autocorrect.exceptions.TreeFullException;
 import org.springframework.stereotype.Service;
 
@@ -12,19 +13,38 @@ import java.util.List;
 @Service
 public class Tree
 {
-    private static final int MAX_WORD_LENGTH = 20;
-    private static final int MAX_TREE_SIZE = 150;
+    public static final int MAX_WORD_LENGTH = 20;
+    private static final int DEFAULT_MAX_TREE_SIZE = 150;
+
+    /**
+     * Work, in {@link LevenshteinMetric#cost} cells, needed to compare a query against every word of a full
+     * default-sized tree. A lookup given at least this budget is never cut short.
+     */
+    public static final long FULL_SEARCH_COST = (long) DEFAULT_MAX_TREE_SIZE * MAX_WORD_LENGTH * MAX_WORD_LENGTH;
 
     /**
      * The maximum distance between two words for them to be considered "similar"
      */
     private static final int MAX_DIST = 2;
 
+    private final int maxTreeSize;
+
     private TreeNode root;
     private int size;
 
     public Tree()
     {
+        this(DEFAULT_MAX_TREE_SIZE);
+    }
+
+    /**
+     * Creates a tree holding at most {@code maxTreeSize} words, used when loading a whole dictionary
+     *
+     * @param maxTreeSize maximum number of words the tree can hold
+     */
+    public Tree(int maxTreeSize)
+    {
+        this.maxTreeSize = maxTreeSize;
         size = 0;
     }
 
@@ -46,7 +66,28 @@ public class Tree
         if (isEmptyWord(word)) throw new EmptyStringException();
         if (isAboveMaxWordLength(word)) throw new ExceedsMaxWordLengthException();
         List<String> similarWords = new ArrayList<>();
-        return getSimilarWords(word, similarWords, root); //Recursive method for finding similar words
+        return getSimilarWords(word, similarWords, root, new SearchBudget(Long.MAX_VALUE)); //Recursive method for finding similar words
+    }
+
+    /**
+     * Returns all words X in the tree with {@code dist(word, X) <= 2}, doing at most {@code maxCost} work, measured
+     * in {@link LevenshteinMetric#cost} cells summed over every word the search compares against
+     *
+     * @param word word to find all words similar to
+     * @param maxCost maximum number of distance table cells the search may fill in
+     * @return list of similar words
+     * @throws EmptyStringException if {@code word} is an empty string
+     * @throws ExceedsMaxWordLengthException if {@code word} exceeds max word length
+     * @throws SearchBudgetExceededException if the search ran out of budget, carrying the words found so far
+     */
+    public List<String> getSimilarWords(String word, long maxCost) throws EmptyStringException, ExceedsMaxWordLengthException, SearchBudgetExceededException
+    {
+        if (isEmptyWord(word)) throw new EmptyStringException();
+        if (isAboveMaxWordLength(word)) throw new ExceedsMaxWordLengthException();
+        SearchBudget budget = new SearchBudget(maxCost);
+        List<String> similarWords = getSimilarWords(word, new ArrayList<>(), root, budget);
+        if (budget.exhausted) throw new SearchBudgetExceededException(similarWords);
+        return similarWords;
     }
 
     /**
@@ -55,11 +96,14 @@ public class Tree
      * @param word word to find all words similar to
      * @param similarWords list of similar words
      * @param currentNode root node of subtree to search
+     * @param budget remaining work for this search
      * @return list of similar words
      */
-    private List<String> getSimilarWords(String word, List<String> similarWords, TreeNode currentNode)
+    private List<String> getSimilarWords(String word, List<String> similarWords, TreeNode currentNode, SearchBudget budget)
     {
         if (currentNode == null) return similarWords;
+        //Stop descending once comparing against this node would go over budget, keeping whatever was found so far
+        if (!budget.tryCharge(LevenshteinMetric.cost(word, currentNode.word))) return similarWords;
         //Distance between specified word and current node
         int currDist = LevenshteinMetric.dist(word, currentNode.word);
         //Adds word to similar words list if it's less than max distance
@@ -70,7 +114,7 @@ public class Tree
             //Calls getSimilarWords() recursively on each subtree of the children nodes we're looping through
             // Each node X of the subtree will have dist(word, X) between currDist - 2 and currDist + 2
             // We continue to do this until no more children nodes are found
-            if (currentNode.connections.containsKey(dist)) similarWords = getSimilarWords(word, similarWords, currentNode.connections.get(dist));
+            if (currentNode.connections.containsKey(dist)) similarWords = getSimilarWords(word, similarWords, currentNode.connections.get(dist), budget);
         }
         return similarWords;
     }
@@ -156,8 +200,8 @@ public class Tree
 
     public boolean isAboveMaxTreeSize()
     {
-        //Check is performed before adding, so if tree is currently at MAX_TREE_SIZE, we should throw exception
-        return size >= MAX_TREE_SIZE;
+        //Check is performed before adding, so if tree is currently at maxTreeSize, we should throw exception
+        return size >= maxTreeSize;
     }
 
     /**
@@ -168,7 +212,35 @@ public class Tree
      */
     public boolean isAboveMaxTreeSize(int newElements)
     {
-        return size + newElements > MAX_TREE_SIZE;
+        return size + newElements > maxTreeSize;
+    }
+
+    /**
+     * Work, in distance table cells, a single search is still allowed to do
+     */
+    private static class SearchBudget
+    {
+        long remaining;
+        boolean exhausted;
+
+        SearchBudget(long maxCost)
+        {
+            remaining = maxCost;
+        }
+
+        /**
+         * Uses up {@code cost} cells, returning false (and marking the budget exhausted) if not enough were left
+         */
+        boolean tryCharge(int cost)
+        {
+            if (cost > remaining)
+            {
+                exhausted = true;
+                return false;
+            }
+            remaining -= cost;
+            return true;
+        }
     }
 
     private class TreeNode
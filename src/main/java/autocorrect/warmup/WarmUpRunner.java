@@ -0,0 +1,188 @@
+package autocorrect.warmup;
+
+import autocorrect.exceptions.EmptyStringException;
+import autocorrect.exceptions.ExceedsMaxWordLengthException;
+import autocorrect.exceptions.SearchBudgetExceededException;
+import autocorrect.exceptions.TreeFullException;
+import autocorrect.util.QueryLimiter;
+import autocorrect.util.Tree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a sample of lookups once the application has started so {@link Tree#getSimilarWords} and
+ * {@link autocorrect.util.LevenshteinMetric#dist} get compiled before real traffic arrives. The service
+ * only reports ready (see {@link autocorrect.controllers.ReadinessController}) once this has finished.
+ */
+@Component
+public class WarmUpRunner implements ApplicationRunner
+{
+    private static final Logger log = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    /**
+     * Words used when no sample file is configured, kept short since lookup cost grows quickly with length
+     */
+    private static final List<String> DEFAULT_SAMPLE = Arrays.asList(
+            "home", "about", "contact", "blog", "news", "login", "signup", "search", "profile", "account",
+            "cart", "checkout", "orders", "help", "support", "faq", "terms", "privacy", "careers", "press",
+            "events", "pricing", "docs", "status");
+
+    private final QueryLimiter queryLimiter;
+    private final boolean enabled;
+    private final String samplePath;
+    private final int maxQueries;
+    private final long maxDurationMillis;
+
+    private volatile boolean ready;
+    private volatile int lookupsReplayed;
+
+    public WarmUpRunner(QueryLimiter queryLimiter,
+                        @Value("${autocorrect.warmup.enabled:true}") boolean enabled,
+                        @Value("${autocorrect.warmup.sample:}") String samplePath,
+                        @Value("${autocorrect.warmup.queries:2000}") int maxQueries,
+                        @Value("${autocorrect.warmup.max-duration-ms:30000}") long maxDurationMillis)
+    {
+        this.queryLimiter = queryLimiter;
+        this.enabled = enabled;
+        this.samplePath = samplePath;
+        this.maxQueries = maxQueries;
+        this.maxDurationMillis = maxDurationMillis;
+    }
+
+    /**
+     * @return true once warm-up has finished (or was skipped)
+     */
+    public boolean isReady()
+    {
+        return ready;
+    }
+
+    /**
+     * @return number of lookups warm-up replayed, 0 if it was skipped
+     */
+    public int getLookupsReplayed()
+    {
+        return lookupsReplayed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException
+    {
+        try
+        {
+            if (enabled) warmUp();
+        }
+        finally
+        {
+            ready = true;
+        }
+    }
+
+    private void warmUp() throws IOException
+    {
+        List<String> sample = samplePath.isEmpty() ? DEFAULT_SAMPLE : Files.readAllLines(Paths.get(samplePath), StandardCharsets.UTF_8);
+
+        //Warm up against a scratch tree so the tree served to clients stays empty until words are inserted
+        Tree tree = new Tree();
+        List<String> queries = new ArrayList<>();
+        for (String word : sample)
+        {
+            word = word.trim();
+            if (!tree.isValidWord(word)) continue;
+            try
+            {
+                tree.addWord(word);
+            }
+            catch (TreeFullException | EmptyStringException | ExceedsMaxWordLengthException e)
+            {
+                continue; //Can't happen after the isValidWord() check
+            }
+            queries.add(word);
+            if (word.length() > 1) queries.add(word.substring(1)); //Typo-like variant one edit away
+        }
+        if (queries.isEmpty())
+        {
+            log.warn("Skipping warm-up, sample contains no usable words");
+            return;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxDurationMillis);
+        Pass cold = replay(tree, queries, maxQueries, deadline);
+        Pass warm = null;
+        int replayed = cold.lookups;
+        while (replayed < maxQueries && System.nanoTime() < deadline)
+        {
+            Pass pass = replay(tree, queries, maxQueries - replayed, deadline);
+            replayed += pass.lookups;
+            //Only a complete pass covers the same queries as the cold one, so only those are comparable
+            if (pass.lookups == queries.size()) warm = pass;
+        }
+        lookupsReplayed = replayed;
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (System.nanoTime() >= deadline) log.warn("Warm-up stopped after reaching its {} ms limit", maxDurationMillis);
+        if (warm == null)
+        {
+            log.info("Warm-up replayed {} lookups in {} ms, mean lookup latency {} us cold, no full warm pass ran",
+                    replayed, elapsedMillis, cold.meanMicros());
+        }
+        else
+        {
+            log.info("Warm-up replayed {} lookups in {} ms, mean lookup latency {} us cold, {} us warm",
+                    replayed, elapsedMillis, cold.meanMicros(), warm.meanMicros());
+        }
+    }
+
+    /**
+     * Looks up each query once, the same way {@link autocorrect.controllers.AutoCorrectController} does, stopping
+     * early after {@code limit} lookups or once {@code deadline} has passed
+     */
+    private Pass replay(Tree tree, List<String> queries, int limit, long deadline)
+    {
+        Pass pass = new Pass();
+        long start = System.nanoTime();
+        for (String query : queries)
+        {
+            if (pass.lookups >= limit || System.nanoTime() >= deadline) break;
+            try
+            {
+                tree.getSimilarWords(query, queryLimiter.getMaxLookupCost());
+            }
+            catch (SearchBudgetExceededException | EmptyStringException | ExceedsMaxWordLengthException e)
+            {
+                //Only the work done matters here, not the result
+            }
+            pass.lookups++;
+        }
+        pass.nanos = System.nanoTime() - start;
+        return pass;
+    }
+
+    /**
+     * Lookups done and time taken by one pass over the queries
+     */
+    private static class Pass
+    {
+        int lookups;
+        long nanos;
+
+        long meanMicros()
+        {
+            return lookups == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(nanos / lookups);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package autocorrect;
+
+import autocorrect.controllers.AutoCorrectController;
+import autocorrect.exceptions.EmptyStringException;
+import autocorrect.exceptions.ExceedsMaxWordLengthException;
+import autocorrect.exceptions.TreeFullException;
+import autocorrect.util.QueryLimiter;
+import autocorrect.util.Tree;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class AutoCorrectControllerTest
+{
+    Tree tree;
+    QueryLimiter queryLimiter;
+    MockMvc mockMvc;
+
+    @Before
+    public void createTree() throws TreeFullException, ExceedsMaxWordLengthException, EmptyStringException
+    {
+        tree = new Tree();
+        tree.addWord("tree");
+        tree.addWord("tree1");
+        tree.addWord("treee1");
+    }
+
+    private void createController(QueryLimiter queryLimiter)
+    {
+        this.queryLimiter = queryLimiter;
+        AutoCorrectController controller = new AutoCorrectController();
+        ReflectionTestUtils.setField(controller, "tree", tree);
+        ReflectionTestUtils.setField(controller, "queryLimiter", queryLimiter);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    public void testFullResult() throws Exception
+    {
+        createController(new QueryLimiter(1, 10, Tree.FULL_SEARCH_COST));
+        mockMvc.perform(get("/auto-correct/").param("link", "tree"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.links.length()").value(3))
+                .andExpect(jsonPath("$.partial").value(false));
+    }
+
+    @Test
+    public void testPartialResult() throws Exception
+    {
+        createController(new QueryLimiter(1, 10, 16)); //Only enough to compare "tree" against the root
+        mockMvc.perform(get("/auto-correct/").param("link", "tree"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.links.length()").value(1))
+                .andExpect(jsonPath("$.partial").value(true));
+    }
+
+    @Test
+    public void testOverloaded() throws Exception
+    {
+        createController(new QueryLimiter(1, 10, Tree.FULL_SEARCH_COST));
+        queryLimiter.tryAcquire("qwertyuiopasdfghjklz"); //Take every permit
+        mockMvc.perform(get("/auto-correct/").param("link", "tree"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.errors[0]").value(AutoCorrectController.OVERLOADED_ERROR));
+    }
+
+    @Test
+    public void testReleasesPermit() throws Exception
+    {
+        createController(new QueryLimiter(1, 10, Tree.FULL_SEARCH_COST));
+        mockMvc.perform(get("/auto-correct/").param("link", "")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/auto-correct/").param("link", "tree")).andExpect(status().isOk());
+        mockMvc.perform(get("/auto-correct/").param("link", "tree")).andExpect(status().isOk());
+    }
+
+    @Test
+    public void testInvalidLinkRejectedWhenOverloaded() throws Exception
+    {
+        createController(new QueryLimiter(1, 10, Tree.FULL_SEARCH_COST));
+        queryLimiter.tryAcquire("qwertyuiopasdfghjklz"); //Take every permit
+        mockMvc.perform(get("/auto-correct/").param("link", ""))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value(AutoCorrectController.EMPTY_STRING_ERROR));
+        mockMvc.perform(get("/auto-correct/").param("link", "qwertyuiopasdfghjklzx"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,137 @@
+package autocorrect;
+
+import autocorrect.batch.BatchPipeline;
+import autocorrect.exceptions.EmptyStringException;
+import autocorrect.exceptions.ExceedsMaxWordLengthException;
+import autocorrect.exceptions.TreeFullException;
+import autocorrect.util.Tree;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BatchPipelineTest
+{
+    Tree tree;
+
+    @Before
+    public void createTree() throws TreeFullException, ExceedsMaxWordLengthException, EmptyStringException
+    {
+        tree = new Tree(Integer.MAX_VALUE);
+        tree.addWord("tree");
+        tree.addWord("lol");
+    }
+
+    @Test
+    public void testKeepsInputOrder() throws IOException, InterruptedException
+    {
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++)
+        {
+            String link = i % 2 == 0 ? "tree" + (i % 10) : "xyzxyz" + i;
+            input.append(link).append('\n');
+            expected.append(link).append('\t').append(i % 2 == 0 ? "tree" : "").append('\n');
+        }
+
+        StringWriter out = new StringWriter();
+        long processed = new BatchPipeline(tree, 4, 8).run(new BufferedReader(new StringReader(input.toString())), out);
+
+        assertEquals(1000, processed);
+        assertEquals(expected.toString(), out.toString());
+    }
+
+    @Test
+    public void testInvalidLinksGetNoSuggestions() throws IOException, InterruptedException
+    {
+        StringWriter out = new StringWriter();
+        new BatchPipeline(tree, 2, 2).run(new BufferedReader(new StringReader("\nqwertyuiopasdfghjklzx\nlol\n")), out);
+
+        assertEquals("\t\nqwertyuiopasdfghjklzx\t\nlol\tlol\n", out.toString());
+    }
+
+    @Test(timeout = 10000)
+    public void testMaxLengthWords() throws IOException, InterruptedException, TreeFullException, ExceedsMaxWordLengthException, EmptyStringException
+    {
+        Tree dictionary = new Tree(Integer.MAX_VALUE);
+        for (int i = 0; i < 2000; i++)
+        {
+            dictionary.addWord(String.format("abcdefghijklmn%06d", i)); //20 characters, the maximum word length
+        }
+
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 2000; i++)
+        {
+            input.append(String.format("abcdefghijklmn%06dx", i).substring(1)).append('\n'); //One edit away from word i
+        }
+
+        StringWriter out = new StringWriter();
+        long processed = new BatchPipeline(dictionary, 4, 64).run(new BufferedReader(new StringReader(input.toString())), out);
+
+        assertEquals(2000, processed);
+        String[] lines = out.toString().split("\n");
+        assertEquals(2000, lines.length);
+        for (int i = 0; i < 2000; i++)
+        {
+            assertTrue(lines[i].split("\t")[1].contains(String.format("abcdefghijklmn%06d", i)));
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testWriterFailureStopsReaderCleanly() throws InterruptedException
+    {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 1000000; i++)
+        {
+            input.append("tree").append('\n');
+        }
+        Writer failingOut = new StringWriter()
+        {
+            @Override
+            public void write(String str)
+            {
+                throw new UncheckedWriteFailure();
+            }
+        };
+
+        List<Throwable> uncaught = Collections.synchronizedList(new ArrayList<>());
+        Thread.UncaughtExceptionHandler previousHandler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, e) -> uncaught.add(e));
+        try
+        {
+            //Queue big enough that the reader is still submitting lookups when the writer fails
+            new BatchPipeline(tree, 2, 1000000).run(new BufferedReader(new StringReader(input.toString())), failingOut);
+            fail();
+        }
+        catch (UncheckedWriteFailure | IOException e)
+        {
+            //Expected, the writer's failure is what gets reported
+        }
+        finally
+        {
+            Thread.setDefaultUncaughtExceptionHandler(previousHandler);
+        }
+
+        for (Thread thread : Thread.getAllStackTraces().keySet())
+        {
+            assertFalse(thread.getName().equals("batch-reader") && thread.isAlive());
+        }
+        assertTrue(uncaught.isEmpty());
+    }
+
+    private static class UncheckedWriteFailure extends RuntimeException
+    {
+    }
+}
@@ -0,0 +1,29 @@
+package autocorrect;
+
+import autocorrect.util.LevenshteinMetric;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LevenshteinMetricTest
+{
+    @Test
+    public void testDist()
+    {
+        assertEquals(0, LevenshteinMetric.dist("", ""));
+        assertEquals(3, LevenshteinMetric.dist("", "abc"));
+        assertEquals(3, LevenshteinMetric.dist("abc", ""));
+        assertEquals(0, LevenshteinMetric.dist("lol", "lol"));
+        assertEquals(1, LevenshteinMetric.dist("lol", "lolo"));
+        assertEquals(3, LevenshteinMetric.dist("kitten", "sitting"));
+        assertEquals(3, LevenshteinMetric.dist("sitting", "kitten"));
+    }
+
+    @Test(timeout = 1000)
+    public void testDistMaxLengthWords()
+    {
+        //The old recursive implementation took days for a pair of this length
+        assertEquals(20, LevenshteinMetric.dist("abcdefghijklmnopqrst", "ABCDEFGHIJKLMNOPQRST"));
+        assertEquals(2, LevenshteinMetric.dist("abcdefghijklmnopqrst", "abcdefghijklmnopqrzz"));
+    }
+}
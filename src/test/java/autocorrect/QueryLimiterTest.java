@@ -0,0 +1,49 @@
+package autocorrect;
+
+import autocorrect.util.QueryLimiter;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class QueryLimiterTest
+{
+    private static final String MAX_LENGTH_WORD = "qwertyuiopasdfghjklz";
+
+    @Test
+    public void testRejectsWhenNoPermitFree()
+    {
+        QueryLimiter queryLimiter = new QueryLimiter(1, 10, 100);
+        assertTrue(queryLimiter.tryAcquire(MAX_LENGTH_WORD));
+        assertFalse(queryLimiter.tryAcquire("a"));
+    }
+
+    @Test
+    public void testReleaseFreesPermit()
+    {
+        QueryLimiter queryLimiter = new QueryLimiter(1, 10, 100);
+        assertTrue(queryLimiter.tryAcquire(MAX_LENGTH_WORD));
+        queryLimiter.release(MAX_LENGTH_WORD);
+        assertTrue(queryLimiter.tryAcquire(MAX_LENGTH_WORD));
+    }
+
+    @Test
+    public void testPermitsWeightedByWordLength()
+    {
+        QueryLimiter queryLimiter = new QueryLimiter(1, 10, 100); //Room for one max-length lookup
+        for (int i = 0; i < 5; i++)
+        {
+            assertTrue(queryLimiter.tryAcquire("abcd")); //Five 4-character lookups fit in the same room
+        }
+        assertFalse(queryLimiter.tryAcquire("a"));
+    }
+
+    @Test
+    public void testCheapLookupGetsAheadOfExpensive()
+    {
+        QueryLimiter queryLimiter = new QueryLimiter(1, 10, 100);
+        assertTrue(queryLimiter.tryAcquire("abcdefghijklmnop")); //16 of 20 permits taken
+        assertFalse(queryLimiter.tryAcquire("abcdefghij")); //Expensive lookup doesn't fit
+        assertTrue(queryLimiter.tryAcquire("abc")); //Cheap one still does
+    }
+}
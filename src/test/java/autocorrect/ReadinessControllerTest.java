@@ -0,0 +1,47 @@
+package autocorrect;
+
+import autocorrect.controllers.ReadinessController;
+import autocorrect.util.QueryLimiter;
+import autocorrect.util.Tree;
+import autocorrect.warmup.WarmUpRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class ReadinessControllerTest
+{
+    WarmUpRunner warmUpRunner;
+    MockMvc mockMvc;
+
+    @Before
+    public void createController()
+    {
+        warmUpRunner = new WarmUpRunner(new QueryLimiter(1, 10, Tree.FULL_SEARCH_COST), true, "", 100, 30000);
+        ReadinessController controller = new ReadinessController();
+        ReflectionTestUtils.setField(controller, "warmUpRunner", warmUpRunner);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    public void testNotReadyBeforeWarmUp() throws Exception
+    {
+        mockMvc.perform(get("/ready"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.errors[0]").value(ReadinessController.WARMING_UP_ERROR));
+    }
+
+    @Test
+    public void testReadyAfterWarmUp() throws Exception
+    {
+        warmUpRunner.run(null);
+        mockMvc.perform(get("/ready"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.errors").isEmpty());
+    }
+}
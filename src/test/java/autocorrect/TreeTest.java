@@ -2,6 +2,7 @@ package autocorrect;
 
 import autocorrect.exceptions.EmptyStringException;
 import autocorrect.exceptions.ExceedsMaxWordLengthException;
+import autocorrect.exceptions.SearchBudgetExceededException;
 import autocorrect.exceptions.TreeFullException;
 import autocorrect.util.Tree;
 import org.junit.Before;
@@ -117,4 +118,65 @@ public class TreeTest
         assertTrue(similarWordsTree.containsAll(actualSimilarWordsTree));
         assertEquals(3, actualSimilarWordsTree.size());
     }
+
+    @Test
+    public void testGetSimilarWordWithinBudget() throws TreeFullException, ExceedsMaxWordLengthException, EmptyStringException, SearchBudgetExceededException
+    {
+        tree.addWord("tree");
+        tree.addWord("tree1");
+        tree.addWord("treee1");
+
+        List<String> actualSimilarWordsTree = tree.getSimilarWords("tree", 16 + 20 + 24); //Cost of comparing "tree" against each word
+        assertTrue(actualSimilarWordsTree.containsAll(Arrays.asList("tree", "tree1", "treee1")));
+        assertEquals(3, actualSimilarWordsTree.size());
+    }
+
+    @Test
+    public void testGetSimilarWordExceedsBudget() throws TreeFullException, ExceedsMaxWordLengthException, EmptyStringException
+    {
+        tree.addWord("tree");
+        tree.addWord("tree1");
+        tree.addWord("treee1");
+
+        try
+        {
+            tree.getSimilarWords("tree", 16); //Only enough to compare against the root
+            fail();
+        }
+        catch (SearchBudgetExceededException e)
+        {
+            assertEquals(Arrays.asList("tree"), e.getPartialResults());
+        }
+    }
+
+    @Test(timeout = 5000)
+    public void testGetSimilarWordLongWordsFullTree() throws TreeFullException, ExceedsMaxWordLengthException, EmptyStringException, SearchBudgetExceededException
+    {
+        for (int i = 0; i < 150; i++)
+        {
+            tree.addWord(String.format("abcdefghijklmnop%04d", i)); //20 characters, the maximum word length
+        }
+
+        List<String> actualSimilarWords = tree.getSimilarWords("abcdefghijklmnop0000", Tree.FULL_SEARCH_COST);
+        assertTrue(actualSimilarWords.contains("abcdefghijklmnop0000"));
+    }
+
+    @Test(timeout = 5000)
+    public void testGetSimilarWordLongWordsExceedsBudget() throws TreeFullException, ExceedsMaxWordLengthException, EmptyStringException
+    {
+        for (int i = 0; i < 150; i++)
+        {
+            tree.addWord(String.format("abcdefghijklmnop%04d", i));
+        }
+
+        try
+        {
+            tree.getSimilarWords("abcdefghijklmnop0000", 3 * 20 * 20); //Enough to compare against three words
+            fail();
+        }
+        catch (SearchBudgetExceededException e)
+        {
+            assertTrue(e.getPartialResults().size() <= 3);
+        }
+    }
 }
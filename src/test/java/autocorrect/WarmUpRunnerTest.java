@@ -0,0 +1,97 @@
+package autocorrect;
+
+import autocorrect.util.QueryLimiter;
+import autocorrect.util.Tree;
+import autocorrect.warmup.WarmUpRunner;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.boot.test.rule.OutputCapture;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WarmUpRunnerTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Rule
+    public OutputCapture output = new OutputCapture();
+
+    private WarmUpRunner createRunner(String samplePath, int maxQueries, long maxDurationMillis)
+    {
+        return new WarmUpRunner(new QueryLimiter(1, 10, Tree.FULL_SEARCH_COST), true, samplePath, maxQueries, maxDurationMillis);
+    }
+
+    private String writeSample(String... words) throws IOException
+    {
+        File sample = folder.newFile();
+        Files.write(sample.toPath(), Arrays.asList(words), StandardCharsets.UTF_8);
+        return sample.getPath();
+    }
+
+    @Test
+    public void testReadyAfterRun() throws IOException
+    {
+        WarmUpRunner warmUpRunner = createRunner("", 100, 30000);
+        assertFalse(warmUpRunner.isReady());
+        warmUpRunner.run(null);
+        assertTrue(warmUpRunner.isReady());
+        assertEquals(100, warmUpRunner.getLookupsReplayed());
+    }
+
+    @Test
+    public void testSkipsSampleWithoutUsableWords() throws IOException
+    {
+        WarmUpRunner warmUpRunner = createRunner(writeSample("", "   ", "qwertyuiopasdfghjklzx"), 100, 30000);
+        warmUpRunner.run(null);
+        assertTrue(warmUpRunner.isReady());
+        assertEquals(0, warmUpRunner.getLookupsReplayed());
+    }
+
+    @Test
+    public void testStopsAtDeadline() throws IOException
+    {
+        WarmUpRunner warmUpRunner = createRunner(writeSample("home", "about", "contact"), 100, 0);
+        warmUpRunner.run(null);
+        assertTrue(warmUpRunner.isReady());
+        assertEquals(0, warmUpRunner.getLookupsReplayed());
+    }
+
+    @Test
+    public void testDisabled() throws IOException
+    {
+        WarmUpRunner warmUpRunner = new WarmUpRunner(new QueryLimiter(1, 10, Tree.FULL_SEARCH_COST), false, "", 100, 30000);
+        warmUpRunner.run(null);
+        assertTrue(warmUpRunner.isReady());
+        assertEquals(0, warmUpRunner.getLookupsReplayed());
+    }
+
+    @Test
+    public void testPartialWarmPassNotReported() throws IOException
+    {
+        //Sample gives 6 queries (each word plus a variant), so the second pass is cut short after 2
+        WarmUpRunner warmUpRunner = createRunner(writeSample("home", "about", "contact"), 8, 30000);
+        warmUpRunner.run(null);
+        assertEquals(8, warmUpRunner.getLookupsReplayed());
+        output.expect(containsString("no full warm pass ran"));
+    }
+
+    @Test
+    public void testFullWarmPassReported() throws IOException
+    {
+        WarmUpRunner warmUpRunner = createRunner(writeSample("home", "about", "contact"), 12, 30000);
+        warmUpRunner.run(null);
+        assertEquals(12, warmUpRunner.getLookupsReplayed());
+        output.expect(containsString(" us warm"));
+    }
+}